@@ -0,0 +1,43 @@
+import java.util.concurrent.atomic.AtomicLong;
+
+
+//limit on how much work a minimization may do
+//the algorithm checks it while generating prime implicants and while searching for the cover,
+//and falls back to the best valid cover found so far once it runs out
+public class Budget {
+    public static final long UNLIMITED = -1;
+
+    private long deadline;
+    private long maxCubes;
+    private AtomicLong cubesUsed;
+
+    //timeLimitMillis = wall-clock time allowed from now, UNLIMITED for no deadline
+    //maxCubes = number of combined cubes / search steps allowed, UNLIMITED for no limit
+    public Budget(long timeLimitMillis, long maxCubes) {
+        this.deadline = timeLimitMillis == UNLIMITED ? Long.MAX_VALUE : System.nanoTime() + timeLimitMillis * 1_000_000L;
+        this.maxCubes = maxCubes == UNLIMITED ? Long.MAX_VALUE : maxCubes;
+        this.cubesUsed = new AtomicLong();
+    }
+
+    public static Budget unlimited() {
+        return new Budget(UNLIMITED, UNLIMITED);
+    }
+
+    //record work done, returns false once the budget is used up
+    //shared between threads, so subproblems solved in parallel draw from the same budget
+    public boolean spend(long cubes) {
+        return cubesUsed.addAndGet(cubes) <= maxCubes && !isPastDeadline();
+    }
+
+    public boolean isExhausted() {
+        return cubesUsed.get() > maxCubes || isPastDeadline();
+    }
+
+    public long getCubesUsed() {
+        return cubesUsed.get();
+    }
+
+    private boolean isPastDeadline() {
+        return deadline != Long.MAX_VALUE && System.nanoTime() - deadline > 0;
+    }
+}
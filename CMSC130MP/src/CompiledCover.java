@@ -0,0 +1,249 @@
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+
+//compiled form of a minimized cover used to evaluate the function without re-parsing the expression
+//every implicant is stored as a mask/value pair: an input is covered if (input & mask) == value
+public class CompiledCover {
+    public static final int MAX_GENERATED_IMPLICANTS = 3000;
+
+    private int numberOfVariables;
+    private int[] masks;
+    private int[] values;
+
+    //constructor from the chosen implicants of a solved function
+    //implicants = final prime implicants (the cover)
+    //numberOfVariables = number of variables in the boolean function
+    public CompiledCover(List<Minterm> implicants, int numberOfVariables) {
+        this.numberOfVariables = numberOfVariables;
+        this.masks = new int[implicants.size()];
+        this.values = new int[implicants.size()];
+
+        for (int k = 0; k < implicants.size(); k++) {
+            masks[k] = implicants.get(k).toMask();
+            values[k] = implicants.get(k).toValue();
+        }
+    }
+
+    //constructor from already packed mask/value pairs
+    public CompiledCover(int[] masks, int[] values, int numberOfVariables) {
+        this.numberOfVariables = numberOfVariables;
+        this.masks = masks.clone();
+        this.values = values.clone();
+    }
+
+    public int getNumberOfVariables() {
+        return numberOfVariables;
+    }
+
+    public int size() {
+        return masks.length;
+    }
+
+    public int getMask(int implicant) {
+        return masks[implicant];
+    }
+
+    public int getValue(int implicant) {
+        return values[implicant];
+    }
+
+    //evaluate the function for a single input (decimal value of the minterm)
+    public boolean evaluate(int input) {
+        for (int k = 0; k < masks.length; k++) {
+            if ((input & masks[k]) == values[k]) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    //evaluate 64 inputs at once
+    //variableSlices[i] holds the value of the i-th variable (i-th letter) for each of the 64 inputs, one per bit
+    //bit j of the result is the function value for input j
+    public long evaluate(long[] variableSlices) {
+        long result = 0L;
+
+        for (int k = 0; k < masks.length; k++) {
+            long term = -1L;
+
+            for (int i = 0; i < numberOfVariables; i++) {
+                int position = 1 << (numberOfVariables - 1 - i);
+
+                if ((masks[k] & position) != 0) {
+                    term &= (values[k] & position) != 0 ? variableSlices[i] : ~variableSlices[i];
+                }
+            }
+
+            result |= term;
+        }
+
+        return result;
+    }
+
+    //transpose up to 64 inputs starting at offset into per-variable slices for the batch evaluation
+    public static long[] sliceInputs(int[] inputs, int offset, int numberOfVariables) {
+        long[] variableSlices = new long[numberOfVariables];
+        int count = Math.min(64, inputs.length - offset);
+
+        for (int j = 0; j < count; j++) {
+            int input = inputs[offset + j];
+
+            for (int i = 0; i < numberOfVariables; i++) {
+                if ((input & (1 << (numberOfVariables - 1 - i))) != 0) {
+                    variableSlices[i] |= 1L << j;
+                }
+            }
+        }
+
+        return variableSlices;
+    }
+
+    //generate a hidden class whose test method checks every implicant with straight-line bit operations
+    //no branches are emitted so the class file does not need stack map frames
+    public IntPredicate toHiddenClass() {
+        //ldc_w indexes and the 64k code limit bound how many implicants fit in one method
+        if (masks.length > MAX_GENERATED_IMPLICANTS) {
+            throw new IllegalStateException("cover is too large to generate an evaluator class");
+        }
+
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup()
+                    .defineHiddenClass(generateClassFile(), true);
+
+            return (IntPredicate) lookup.findConstructor(lookup.lookupClass(),
+                    MethodType.methodType(void.class)).invoke();
+
+        } catch (Throwable e) {
+            throw new IllegalStateException("could not generate evaluator class", e);
+        }
+    }
+
+    //class file for: final class CoverPredicate implements IntPredicate
+    private byte[] generateClassFile() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+
+        //constant pool entries 1-13 are fixed, the mask/value constants follow
+        int firstConstant = 14;
+        int constantPoolCount = firstConstant + 2 * masks.length;
+
+        out.writeInt(0xCAFEBABE);
+        out.writeShort(0);
+        out.writeShort(61);
+
+        out.writeShort(constantPoolCount);
+        writeUtf8(out, "CoverPredicate");                       //1
+        writeClass(out, 1);                                     //2
+        writeUtf8(out, "java/lang/Object");                     //3
+        writeClass(out, 3);                                     //4
+        writeUtf8(out, "java/util/function/IntPredicate");      //5
+        writeClass(out, 5);                                     //6
+        writeUtf8(out, "<init>");                               //7
+        writeUtf8(out, "()V");                                  //8
+        out.writeByte(12);                                      //9 name and type
+        out.writeShort(7);
+        out.writeShort(8);
+        out.writeByte(10);                                      //10 method ref
+        out.writeShort(4);
+        out.writeShort(9);
+        writeUtf8(out, "test");                                 //11
+        writeUtf8(out, "(I)Z");                                 //12
+        writeUtf8(out, "Code");                                 //13
+        for (int k = 0; k < masks.length; k++) {
+            out.writeByte(3);
+            out.writeInt(masks[k]);
+            out.writeByte(3);
+            out.writeInt(values[k]);
+        }
+
+        //public final super, this, super, one interface, no fields
+        out.writeShort(0x0031);
+        out.writeShort(2);
+        out.writeShort(4);
+        out.writeShort(1);
+        out.writeShort(6);
+        out.writeShort(0);
+
+        out.writeShort(2);
+
+        //constructor: aload_0, invokespecial Object.<init>, return
+        byte[] constructorCode = {0x2a, (byte) 0xb7, 0x00, 0x0a, (byte) 0xb1};
+        writeMethod(out, 7, 8, 1, 1, constructorCode);
+
+        //test(input): notCovered = 1
+        //for each implicant: d = (input & mask) ^ value; notCovered &= (d | -d) >>> 31
+        //return notCovered ^ 1
+        ByteArrayOutputStream code = new ByteArrayOutputStream();
+        code.write(0x04);                                       //iconst_1
+        code.write(0x3d);                                       //istore_2
+        for (int k = 0; k < masks.length; k++) {
+            int maskIndex = firstConstant + 2 * k;
+            int valueIndex = maskIndex + 1;
+
+            code.write(0x1b);                                   //iload_1
+            code.write(0x13);                                   //ldc_w mask
+            code.write(maskIndex >> 8);
+            code.write(maskIndex);
+            code.write(0x7e);                                   //iand
+            code.write(0x13);                                   //ldc_w value
+            code.write(valueIndex >> 8);
+            code.write(valueIndex);
+            code.write(0x82);                                   //ixor
+            code.write(0x3e);                                   //istore_3
+            code.write(0x1d);                                   //iload_3
+            code.write(0x1d);                                   //iload_3
+            code.write(0x74);                                   //ineg
+            code.write(0x80);                                   //ior
+            code.write(0x10);                                   //bipush 31
+            code.write(31);
+            code.write(0x7c);                                   //iushr
+            code.write(0x1c);                                   //iload_2
+            code.write(0x7e);                                   //iand
+            code.write(0x3d);                                   //istore_2
+        }
+        code.write(0x1c);                                       //iload_2
+        code.write(0x04);                                       //iconst_1
+        code.write(0x82);                                       //ixor
+        code.write(0xac);                                       //ireturn
+        writeMethod(out, 11, 12, 2, 4, code.toByteArray());
+
+        //no class attributes
+        out.writeShort(0);
+
+        return bytes.toByteArray();
+    }
+
+    private static void writeUtf8(DataOutputStream out, String value) throws IOException {
+        out.writeByte(1);
+        out.writeUTF(value);
+    }
+
+    private static void writeClass(DataOutputStream out, int nameIndex) throws IOException {
+        out.writeByte(7);
+        out.writeShort(nameIndex);
+    }
+
+    private static void writeMethod(DataOutputStream out, int nameIndex, int descriptorIndex,
+                                    int maxStack, int maxLocals, byte[] code) throws IOException {
+        out.writeShort(0x0001);
+        out.writeShort(nameIndex);
+        out.writeShort(descriptorIndex);
+        out.writeShort(1);
+
+        out.writeShort(13);
+        out.writeInt(12 + code.length);
+        out.writeShort(maxStack);
+        out.writeShort(maxLocals);
+        out.writeInt(code.length);
+        out.write(code);
+        out.writeShort(0);
+        out.writeShort(0);
+    }
+}
@@ -0,0 +1,149 @@
+import java.util.*;
+import java.util.function.IntPredicate;
+
+
+//compares interpreting the minimized expression string against the compiled evaluators
+//usage: java CoverBenchmark [numberOfVariables] [seed]
+public class CoverBenchmark {
+    private static final int ROUNDS = 5;
+    private static final int EVALUATIONS = 2_000_000;
+
+    public static void main(String[] args) {
+        int numberOfVariables = args.length > 0 ? Integer.parseInt(args[0]) : QuineMcCluskey.MAX_NO_VARIABLES;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 130L;
+        String variables = "ABCDEFGHIJKLMNOPQRSTUVWXYZ".substring(0, numberOfVariables);
+
+        //random function with roughly half of the minterms on
+        Random random = new Random(seed);
+        List<Integer> minterms = new ArrayList<>();
+        for (int i = 0; i < (1 << numberOfVariables); i++) {
+            if (random.nextBoolean()) {
+                minterms.add(i);
+            }
+        }
+
+        QuineMcCluskeyAlgorithm algorithm = new QuineMcCluskeyAlgorithm(minterms, variables);
+        algorithm.solve();
+
+        //sum of products string like the one callers re-parse today
+        StringJoiner joiner = new StringJoiner(" + ");
+        for (Minterm implicant : algorithm.getEssentialPrimeImplicants()) {
+            joiner.add(implicant.mintermToExpression(variables));
+        }
+        //an empty cover is the constant 0, while a single empty term is the constant 1
+        String expression = algorithm.getEssentialPrimeImplicants().isEmpty() ? "0" : joiner.toString();
+
+        CompiledCover cover = algorithm.compile();
+        IntPredicate generated = cover.toHiddenClass();
+
+        System.out.println("Variables: " + variables);
+        System.out.println("Minterms: " + minterms.size() + ", implicants in cover: " + cover.size());
+        System.out.println("Expression: " + expression);
+
+        //every evaluator has to agree with the interpreted expression
+        int[] inputs = new int[1 << numberOfVariables];
+        for (int i = 0; i < inputs.length; i++) {
+            inputs[i] = i;
+        }
+        for (int offset = 0; offset < inputs.length; offset += 64) {
+            long batch = cover.evaluate(CompiledCover.sliceInputs(inputs, offset, numberOfVariables));
+
+            for (int j = 0; j < 64 && offset + j < inputs.length; j++) {
+                int input = inputs[offset + j];
+                boolean expected = interpret(expression, variables, input);
+                boolean batchValue = (batch & (1L << j)) != 0;
+
+                if (cover.evaluate(input) != expected
+                        || generated.test(input) != expected || batchValue != expected) {
+                    throw new IllegalStateException("evaluators disagree on input " + input);
+                }
+            }
+        }
+
+        //random inputs for timing
+        int[] samples = new int[EVALUATIONS];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = random.nextInt(1 << numberOfVariables);
+        }
+        long[][] slicedSamples = new long[(samples.length + 63) / 64][];
+        for (int b = 0; b < slicedSamples.length; b++) {
+            slicedSamples[b] = CompiledCover.sliceInputs(samples, b * 64, numberOfVariables);
+        }
+
+        for (int round = 1; round <= ROUNDS; round++) {
+            System.out.println("\nRound " + round + ":");
+
+            long start = System.nanoTime();
+            int count = 0;
+            for (int input : samples) {
+                if (interpret(expression, variables, input)) {
+                    count++;
+                }
+            }
+            report("interpreted string", start, count);
+
+            start = System.nanoTime();
+            count = 0;
+            for (int input : samples) {
+                if (cover.evaluate(input)) {
+                    count++;
+                }
+            }
+            report("mask/value table", start, count);
+
+            start = System.nanoTime();
+            count = 0;
+            for (int input : samples) {
+                if (generated.test(input)) {
+                    count++;
+                }
+            }
+            report("hidden class", start, count);
+
+            start = System.nanoTime();
+            count = 0;
+            for (int b = 0; b < slicedSamples.length; b++) {
+                long batch = cover.evaluate(slicedSamples[b]);
+                int valid = Math.min(64, samples.length - b * 64);
+                count += Long.bitCount(valid == 64 ? batch : batch & ((1L << valid) - 1));
+            }
+            report("bit-sliced x64", start, count);
+        }
+    }
+
+    //evaluate a sum of products expression such as "AB'C + A'D" by walking the string
+    //"0" is the empty cover and an empty term has no literals, so it is always true
+    private static boolean interpret(String expression, String variables, int input) {
+        int numberOfVariables = variables.length();
+
+        if (expression.equals("0")) {
+            return false;
+        }
+
+        for (String term : expression.split(" \\+ ")) {
+            boolean value = true;
+
+            for (int i = 0; i < term.length() && value; i++) {
+                int index = variables.indexOf(term.charAt(i));
+                boolean bit = (input & (1 << (numberOfVariables - 1 - index))) != 0;
+                boolean complemented = i + 1 < term.length() && term.charAt(i + 1) == '\'';
+
+                if (complemented) {
+                    i++;
+                }
+                value = complemented ? !bit : bit;
+            }
+
+            if (value) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static void report(String name, long start, int count) {
+        double nanosPerCall = (System.nanoTime() - start) / (double) EVALUATIONS;
+        System.out.printf("  %-32s %8.2f ns/input  (%d true)%n", name, nanosPerCall, count);
+    }
+}
@@ -0,0 +1,295 @@
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+
+
+//preprocessing in front of Quine-McCluskey
+//drops the variables the function doesn't depend on, splits the function into parts on disjoint variables
+//f = g(X) * h(Y) or f = g(X) + h(Y), minimizes the parts in parallel and recombines their covers
+public class DecomposedMinimizer {
+    //finding a split tries every bipartition of the variables, so it is skipped above this size
+    public static final int MAX_DECOMPOSITION_VARIABLES = 12;
+
+    private List<Integer> mintermsDecimal;
+    private String variablesLetter;
+    private int numberOfVariables;
+    private Budget budget;
+    private List<Minterm> cover;
+    private int supportMask;
+    private String decompositionDisplay;
+    private volatile boolean budgetExceeded;
+
+    //constructor for the minimizer
+    public DecomposedMinimizer(List<Integer> mintermsDecimal, String variablesLetter) {
+        this(mintermsDecimal, variablesLetter, Budget.unlimited());
+    }
+
+    //constructor for the minimizer with a limit shared by all the parts
+    public DecomposedMinimizer(List<Integer> mintermsDecimal, String variablesLetter, Budget budget) {
+        this.mintermsDecimal = new ArrayList<>(mintermsDecimal);
+        this.variablesLetter = variablesLetter;
+        this.numberOfVariables = variablesLetter.length();
+        this.budget = budget;
+        this.cover = new ArrayList<>();
+    }
+
+    //execution of the decomposition and minimization
+    public void solve() {
+        Set<Integer> onSet = new HashSet<>(mintermsDecimal);
+        int allVariables = (1 << numberOfVariables) - 1;
+
+        //step1: true support of the whole function
+        supportMask = support(onSet, allVariables);
+
+        //step2 and step3: split and minimize recursively
+        Part result = minimize(project(onSet, supportMask), supportMask);
+
+        for (int[] cube : result.cubes) {
+            cover.add(Minterm.fromMaskAndValue(cube[0], cube[1], numberOfVariables));
+        }
+        decompositionDisplay = result.description;
+    }
+
+    //the chosen cover over the full set of variables
+    public List<Minterm> getCover() {
+        return cover;
+    }
+
+    //variables the function actually depends on
+    public String getSupport() {
+        return letters(supportMask);
+    }
+
+    //variables that can be dropped
+    public String getVacuousVariables() {
+        return letters(~supportMask & ((1 << numberOfVariables) - 1));
+    }
+
+    public boolean isBudgetExceeded() {
+        return budgetExceeded;
+    }
+
+    public CompiledCover compile() {
+        return new CompiledCover(cover, numberOfVariables);
+    }
+
+    //shape of the decomposition, every [..] is a part minimized on its own
+    public String displayDecomposition() {
+        StringBuilder sb = new StringBuilder();
+
+        sb.append("Support: ").append(getSupport().isEmpty() ? "none" : getSupport()).append("\n");
+        sb.append("Vacuous variables: ").append(getVacuousVariables().isEmpty() ? "none" : getVacuousVariables()).append("\n");
+        sb.append("Decomposition: ").append(decompositionDisplay).append("\n");
+
+        sb.append("Cover:\n");
+        for (Minterm implicant : cover) {
+            sb.append("- ").append(implicant.mintermToExpression(variablesLetter)).append("\n");
+        }
+
+        return sb.toString();
+    }
+
+
+    //minimize the function with the given ON-set over the variables in the mask
+    //cubes are kept as {mask, value} in the coordinates of the full function
+    private Part minimize(Set<Integer> onSet, int variables) {
+        int size = 1 << Integer.bitCount(variables);
+
+        if (onSet.isEmpty()) {
+            return new Part(new ArrayList<>(), "0");
+        }
+        if (onSet.size() == size) {
+            List<int[]> cubes = new ArrayList<>();
+            cubes.add(new int[]{0, 0});
+            return new Part(cubes, "1");
+        }
+
+        //a part can lose variables that the whole function needed
+        int support = support(onSet, variables);
+        if (support != variables) {
+            return minimize(project(onSet, support), support);
+        }
+
+        //out of budget: no more searching for splits, the Quine-McCluskey fallback gives the best cover so far
+        if (Integer.bitCount(variables) <= MAX_DECOMPOSITION_VARIABLES && !budget.isExhausted()) {
+            //AND: the ON-set is the product of its projections
+            int split = findSplit(onSet, variables);
+            if (split != 0) {
+                int other = variables & ~split;
+                if (Integer.highestOneBit(split) < Integer.highestOneBit(other)) {
+                    other = split;
+                    split = variables & ~other;
+                }
+
+                Part[] parts = minimizeInParallel(project(onSet, split), split, project(onSet, other), other);
+
+                List<int[]> cubes = new ArrayList<>();
+                for (int[] left : parts[0].cubes) {
+                    for (int[] right : parts[1].cubes) {
+                        cubes.add(new int[]{left[0] | right[0], left[1] | right[1]});
+                    }
+                }
+
+                return new Part(cubes, "(" + parts[0].description + " * " + parts[1].description + ")");
+            }
+
+            //OR: the OFF-set is the product of its projections
+            Set<Integer> offSet = budget.isExhausted() ? Collections.emptySet() : complement(onSet, variables);
+            split = offSet.isEmpty() ? 0 : findSplit(offSet, variables);
+            if (split != 0) {
+                int other = variables & ~split;
+                if (Integer.highestOneBit(split) < Integer.highestOneBit(other)) {
+                    other = split;
+                    split = variables & ~other;
+                }
+
+                Part[] parts = minimizeInParallel(complement(project(offSet, split), split), split,
+                        complement(project(offSet, other), other), other);
+
+                List<int[]> cubes = new ArrayList<>(parts[0].cubes);
+                cubes.addAll(parts[1].cubes);
+
+                return new Part(cubes, "(" + parts[0].description + " + " + parts[1].description + ")");
+            }
+        }
+
+        return minimizeWithQuineMcCluskey(onSet, variables);
+    }
+
+    //one part on another thread, the other on this one
+    private Part[] minimizeInParallel(Set<Integer> leftOnSet, int leftVariables,
+                                      Set<Integer> rightOnSet, int rightVariables) {
+        CompletableFuture<Part> left = CompletableFuture.supplyAsync(() -> minimize(leftOnSet, leftVariables));
+        Part right = minimize(rightOnSet, rightVariables);
+
+        return new Part[]{left.join(), right};
+    }
+
+    //plain Quine-McCluskey on just the variables of this part
+    private Part minimizeWithQuineMcCluskey(Set<Integer> onSet, int variables) {
+        SubSpace subSpace = new SubSpace(variables, variablesLetter);
+
+        List<Integer> compressed = new ArrayList<>();
+        for (int m : onSet) {
+            compressed.add(subSpace.compress(m));
+        }
+        Collections.sort(compressed);
+
+        QuineMcCluskeyAlgorithm algorithm = new QuineMcCluskeyAlgorithm(compressed, subSpace.getLetters(), budget);
+        algorithm.solve();
+        if (algorithm.isBudgetExceeded()) {
+            budgetExceeded = true;
+        }
+
+        List<int[]> cubes = new ArrayList<>();
+        for (Minterm implicant : algorithm.getEssentialPrimeImplicants()) {
+            cubes.add(new int[]{subSpace.expand(implicant.toMask()), subSpace.expand(implicant.toValue())});
+        }
+
+        return new Part(cubes, "[" + subSpace.getLetters() + "]");
+    }
+
+    //variables in the mask that the function depends on
+    //a variable is vacuous when flipping it never moves a minterm out of the ON-set
+    private static int support(Set<Integer> onSet, int variables) {
+        int support = 0;
+
+        for (int b = 0; b < 32; b++) {
+            int bit = 1 << b;
+
+            if ((variables & bit) == 0) {
+                continue;
+            }
+
+            for (int m : onSet) {
+                if (!onSet.contains(m ^ bit)) {
+                    support |= bit;
+                    break;
+                }
+            }
+        }
+
+        return support;
+    }
+
+    //subset of the variables that splits the set into a product with the rest, 0 if there is none
+    //the caller orders the two halves so the part with the first letter comes first
+    //the set is always inside the product of its two projections, so equal sizes mean equal sets
+    //gives up with 0 once the budget runs out, so a deadline can stop the search
+    private int findSplit(Set<Integer> set, int variables) {
+        int lowest = Integer.lowestOneBit(variables);
+        int rest = variables & ~lowest;
+
+        //every proper subset containing the lowest variable, so each bipartition is tried once
+        for (int subset = rest; ; subset = (subset - 1) & rest) {
+            int split = subset | lowest;
+
+            if (budget.isExhausted()) {
+                return 0;
+            }
+
+            if (split != variables) {
+                long left = project(set, split).size();
+                long right = project(set, variables & ~split).size();
+
+                if (left * right == set.size()) {
+                    return split;
+                }
+            }
+
+            if (subset == 0) {
+                break;
+            }
+        }
+
+        return 0;
+    }
+
+    private static Set<Integer> project(Set<Integer> set, int variables) {
+        Set<Integer> projection = new HashSet<>();
+
+        for (int m : set) {
+            projection.add(m & variables);
+        }
+
+        return projection;
+    }
+
+    //assignments of the variables in the mask that are not in the set
+    private static Set<Integer> complement(Set<Integer> set, int variables) {
+        Set<Integer> complement = new HashSet<>();
+        int subset = 0;
+
+        do {
+            if (!set.contains(subset)) {
+                complement.add(subset);
+            }
+            subset = (subset - variables) & variables;
+        } while (subset != 0);
+
+        return complement;
+    }
+
+    private String letters(int mask) {
+        StringBuilder sb = new StringBuilder();
+
+        for (int i = 0; i < numberOfVariables; i++) {
+            if ((mask & (1 << (numberOfVariables - 1 - i))) != 0) {
+                sb.append(variablesLetter.charAt(i));
+            }
+        }
+
+        return sb.toString();
+    }
+
+
+    //cover and description of one minimized part
+    private static class Part {
+        private List<int[]> cubes;
+        private String description;
+
+        private Part(List<int[]> cubes, String description) {
+            this.cubes = cubes;
+            this.description = description;
+        }
+    }
+}
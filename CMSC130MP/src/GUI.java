@@ -1,4 +1,6 @@
 import javax.swing.*;
+import javax.swing.table.DefaultTableCellRenderer;
+import javax.swing.table.TableColumn;
 import java.awt.*;
 import java.util.*;
 import java.util.List;
@@ -10,6 +12,8 @@ public class GUI extends JFrame {
     private JTextField mintermInput;
     private JTextField variableInput;
     private JTextArea result;
+    private JTable primeImplicantChart;
+    private JTabbedPane resultTabs;
     private JButton minimize;
     private JButton clear;
 
@@ -53,7 +57,27 @@ public class GUI extends JFrame {
         result.setEditable(false);
         result.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 14));
         JScrollPane scrollPane = new JScrollPane(result);
-        add(scrollPane, BorderLayout.CENTER);
+
+        //prime implicant chart, only the visible cells are rendered
+        primeImplicantChart = new JTable(new PrimeImplicantTableModel());
+        primeImplicantChart.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 14));
+        primeImplicantChart.setRowHeight(20);
+        primeImplicantChart.setAutoResizeMode(JTable.AUTO_RESIZE_OFF);
+        primeImplicantChart.setFillsViewportHeight(true);
+        primeImplicantChart.getTableHeader().setReorderingAllowed(false);
+        primeImplicantChart.setDefaultRenderer(String.class, new ChartCellRenderer());
+
+        JLabel legend = new JLabel("Green = essential prime implicant, Yellow = additional prime implicant in the cover");
+        legend.setBorder(BorderFactory.createEmptyBorder(5, 5, 5, 5));
+
+        JPanel chartPanel = new JPanel(new BorderLayout());
+        chartPanel.add(new JScrollPane(primeImplicantChart), BorderLayout.CENTER);
+        chartPanel.add(legend, BorderLayout.SOUTH);
+
+        resultTabs = new JTabbedPane();
+        resultTabs.addTab("Steps", scrollPane);
+        resultTabs.addTab("Prime Implicant Chart", chartPanel);
+        add(resultTabs, BorderLayout.CENTER);
 
         //action listeners
         minimize.addActionListener(e -> minimizeFunction());
@@ -61,11 +85,13 @@ public class GUI extends JFrame {
             mintermInput.setText("");
             variableInput.setText("");
             result.setText("");
+            showChart(new PrimeImplicantTableModel());
         });
     }
 
     private void minimizeFunction() {
         result.setText("");
+        showChart(new PrimeImplicantTableModel());
 
         try {
             //process user input
@@ -132,7 +158,9 @@ public class GUI extends JFrame {
 
             //Prime implicant table creation.
             appendText("\nPrime implicant table creation\n");
-            appendText(sirRuah.displayPrimeImplicantsTable());
+            appendText(sirRuah.getPrimeImplicants().size() + " prime implicants x " + minterms.size()
+                    + " minterms, see the Prime Implicant Chart tab\n");
+            showChart(new PrimeImplicantTableModel(sirRuah));
 
             //Selection of essential prime implicants.
             appendText("\nSelection of essential prime implicants\n");
@@ -150,6 +178,16 @@ public class GUI extends JFrame {
         }
     }
 
+    private void showChart(PrimeImplicantTableModel model) {
+        primeImplicantChart.setModel(model);
+
+        //fixed widths so the table never has to measure every cell
+        for (int i = 0; i < primeImplicantChart.getColumnCount(); i++) {
+            TableColumn column = primeImplicantChart.getColumnModel().getColumn(i);
+            column.setPreferredWidth(i == 0 ? 180 : 40);
+        }
+    }
+
     private void showError(String message) {
         JOptionPane.showMessageDialog(this, message, "Error", JOptionPane.ERROR_MESSAGE);
     }
@@ -157,4 +195,32 @@ public class GUI extends JFrame {
     private void appendText(String text) {
         result.append(text);
     }
-}
\ No newline at end of file
+
+    //highlights the rows of the essential prime implicants and the rest of the chosen cover
+    private static class ChartCellRenderer extends DefaultTableCellRenderer {
+        private static final Color ESSENTIAL = new Color(198, 239, 206);
+        private static final Color IN_COVER = new Color(255, 235, 156);
+
+        @Override
+        public Component getTableCellRendererComponent(JTable table, Object value, boolean isSelected,
+                                                       boolean hasFocus, int row, int column) {
+            super.getTableCellRendererComponent(table, value, isSelected, hasFocus, row, column);
+            setHorizontalAlignment(column == 0 ? LEFT : CENTER);
+
+            if (!isSelected) {
+                PrimeImplicantTableModel model = (PrimeImplicantTableModel) table.getModel();
+                int modelRow = table.convertRowIndexToModel(row);
+
+                if (model.isEssential(modelRow)) {
+                    setBackground(ESSENTIAL);
+                } else if (model.isInCover(modelRow)) {
+                    setBackground(IN_COVER);
+                } else {
+                    setBackground(table.getBackground());
+                }
+            }
+
+            return this;
+        }
+    }
+}
@@ -29,6 +29,53 @@ public class Minterm {
         this.setOfMinterms = new HashSet<>(setOfMinterms);
     }
 
+    //rebuild a combined minterm from a packed cube
+    //mask = bit set for every variable that appears in the term, value = the bits of those variables
+    public static Minterm fromMaskAndValue(int mask, int value, int numberOfVariables) {
+        StringBuilder binaryRepresentation = new StringBuilder();
+        Set<Integer> setOfMinterms = new HashSet<>();
+
+        for (int i = numberOfVariables - 1; i >= 0; i--) {
+            if ((mask & (1 << i)) == 0) {
+                binaryRepresentation.append('-');
+            } else {
+                binaryRepresentation.append((value & (1 << i)) != 0 ? '1' : '0');
+            }
+        }
+
+        //enumerate every minterm inside the cube by walking the subsets of the free variables
+        int free = ~mask & ((1 << numberOfVariables) - 1);
+        int subset = 0;
+        do {
+            setOfMinterms.add(value | subset);
+            subset = (subset - free) & free;
+        } while (subset != 0);
+
+        return new Minterm(binaryRepresentation.toString(), setOfMinterms);
+    }
+
+    //packed form of the term: bit set for every variable that appears in it
+    public int toMask() {
+        int mask = 0;
+
+        for (char bit : binaryRepresentation.toCharArray()) {
+            mask = (mask << 1) | (bit != '-' ? 1 : 0);
+        }
+
+        return mask;
+    }
+
+    //packed form of the term: bit set for every variable that appears uncomplemented
+    public int toValue() {
+        int value = 0;
+
+        for (char bit : binaryRepresentation.toCharArray()) {
+            value = (value << 1) | (bit == '1' ? 1 : 0);
+        }
+
+        return value;
+    }
+
     public int getValue() {
         return value;
     }
@@ -0,0 +1,84 @@
+import javax.swing.table.AbstractTableModel;
+import java.util.*;
+
+
+//prime implicant chart read straight from a solved algorithm
+//one row per prime implicant, column 0 is the expression and the rest are the minterms
+//cells are computed only when the table asks for them, so only the visible part of a large chart is ever built
+public class PrimeImplicantTableModel extends AbstractTableModel {
+
+    private List<Minterm> primeImplicants;
+    private List<Integer> minterms;
+    private String variablesLetter;
+    private String[] expressions;
+    private Set<Minterm> essentials;
+    private Set<Minterm> cover;
+
+    //empty chart
+    public PrimeImplicantTableModel() {
+        this.primeImplicants = Collections.emptyList();
+        this.minterms = Collections.emptyList();
+        this.variablesLetter = "";
+        this.expressions = new String[0];
+        this.essentials = Collections.emptySet();
+        this.cover = Collections.emptySet();
+    }
+
+    //chart of a solved algorithm
+    public PrimeImplicantTableModel(QuineMcCluskeyAlgorithm algorithm) {
+        this.primeImplicants = algorithm.getPrimeImplicants();
+        this.minterms = algorithm.getMinterms();
+        this.variablesLetter = algorithm.getVariables();
+        this.expressions = new String[primeImplicants.size()];
+        this.essentials = new HashSet<>(algorithm.getStrictlyEssentialPrimeImplicants());
+        this.cover = new HashSet<>(algorithm.getEssentialPrimeImplicants());
+    }
+
+    @Override
+    public int getRowCount() {
+        return primeImplicants.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return minterms.size() + 1;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        if (column == 0) {
+            return "Prime Implicant";
+        }
+
+        return String.valueOf(minterms.get(column - 1));
+    }
+
+    @Override
+    public Class<?> getColumnClass(int column) {
+        return String.class;
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        if (column == 0) {
+            //expressions are cached since the first column is repainted on every scroll
+            if (expressions[row] == null) {
+                expressions[row] = primeImplicants.get(row).mintermToExpression(variablesLetter);
+            }
+
+            return expressions[row];
+        }
+
+        return primeImplicants.get(row).doesItMatch(minterms.get(column - 1)) ? "X" : "";
+    }
+
+    //prime implicant is the only one covering some minterm
+    public boolean isEssential(int row) {
+        return essentials.contains(primeImplicants.get(row));
+    }
+
+    //prime implicant is part of the final cover
+    public boolean isInCover(int row) {
+        return cover.contains(primeImplicants.get(row));
+    }
+}
@@ -10,12 +10,20 @@ public class QuineMcCluskeyAlgorithm {
     private List<List<List<Minterm>>> simplification;
     private List<Minterm> primeImplicants;
     private List<Minterm> essentialPrimeImplicants;
+    private int numberOfEssentials;
     private StringBuilder simplificationDisplay;
     private StringBuilder primeImplicantTableDisplay;
     private StringBuilder essentialPrimeImplicantsDisplay;
+    private Budget budget;
+    private boolean budgetExceeded;
 
     //constructor for the algo
     public QuineMcCluskeyAlgorithm(List<Integer>mintermsDecimal, String variablesLetter) {
+        this(mintermsDecimal, variablesLetter, Budget.unlimited());
+    }
+
+    //constructor for the algo with a limit on the work it may do
+    public QuineMcCluskeyAlgorithm(List<Integer>mintermsDecimal, String variablesLetter, Budget budget) {
         this.mintermsDecimal = new ArrayList<>(mintermsDecimal);
         this.variablesLetter = variablesLetter;
         this.numberOfVariables = variablesLetter.length();
@@ -26,6 +34,7 @@ public class QuineMcCluskeyAlgorithm {
         this.simplificationDisplay = new StringBuilder();
         this.primeImplicantTableDisplay = new StringBuilder();
         this.essentialPrimeImplicantsDisplay = new StringBuilder();
+        this.budget = budget;
 
         //convert decimal minterms to binary representation
         for (int m:mintermsDecimal) {
@@ -35,17 +44,22 @@ public class QuineMcCluskeyAlgorithm {
 
     //execution of the algorithm
     public void solve() {
+        //step1 and step2
+        findPrimeImplicants();
+
+        //step3 is built only when the text table is asked for, the gui reads the chart from the result directly
+
+        //step4
+        essentialPrimeImplicant();
+    }
+
+    //only the steps up to the prime implicants, used when another engine needs the tabular primes
+    public void findPrimeImplicants() {
         //step1
         List<List<Minterm>> groups = groupByOnes();
 
         //step2
         PrimeImplicants(groups);
-
-        //step3
-        PrimeImplicantTable();
-
-        //step4
-        essentialPrimeImplicant();
     }
 
     //group minterms based on number of 1's
@@ -74,22 +88,44 @@ public class QuineMcCluskeyAlgorithm {
             List<List<Minterm>> newGroups = new ArrayList<>();
             boolean areTherePossibleCombinations = false;
 
+            //terms used in any pairing of this iteration, shared by all groups
+            Set<Minterm> combinedMinterms = new HashSet<>();
+
+            //out of budget: stop combining and keep the terms reached so far
+            if (budget.isExhausted()) {
+                keepTermsReachedSoFar(currentGroups, newGroups, combinedMinterms);
+                return;
+            }
+
             for(int i=0;i<currentGroups.size()-1;i++) {
                 List<Minterm> currentGroup = currentGroups.get(i);
                 List<Minterm> nextGroup = currentGroups.get(i+1);
 
+                //keep an empty group so the group number still matches the number of ones
+                List<Minterm> newGroup = new ArrayList<>();
+                newGroups.add(newGroup);
+
                 if (currentGroup.isEmpty() || nextGroup.isEmpty()) {
                     continue;
                 }
 
-                List<Minterm> newGroup = new ArrayList<>();
-                Set<Minterm> combinedMinterms = new HashSet<>();
-
                 for (Minterm minterm1 : currentGroup) {
+
+                    //pairs that don't combine cost nothing, so the deadline is also checked per term
+                    if (budget.isExhausted()) {
+                        keepTermsReachedSoFar(currentGroups, newGroups, combinedMinterms);
+                        return;
+                    }
+
                     for (Minterm minterm2 : nextGroup) {
                         Optional<Minterm> combined = minterm1.combineMinterms(minterm2);
                         if (combined.isPresent()) {
 
+                            if (!budget.spend(1)) {
+                                keepTermsReachedSoFar(currentGroups, newGroups, combinedMinterms);
+                                return;
+                            }
+
                             areTherePossibleCombinations = true;
                             Minterm newMinterm = combined.get();
                             combinedMinterms.add(minterm1);
@@ -119,28 +155,18 @@ public class QuineMcCluskeyAlgorithm {
 
                 }
 
-                //all uncombined minterms will be considered as primce implicant
-                for(Minterm minterm : currentGroup) {
+            }
+
+            //all uncombined minterms will be considered as prime implicant
+            //checked after every pairing is done since a term can pair with the group before or after it
+            for (List<Minterm> group : currentGroups) {
+                for (Minterm minterm : group) {
 
                     if (!combinedMinterms.contains(minterm)) {
                         primeImplicants.add(minterm);
                     }
 
                 }
-
-                //check the last group in the iteration
-
-                if (i == currentGroups.size()-2) {
-                    for (Minterm minterm : nextGroup) {
-                        if (!combinedMinterms.contains(minterm)) {
-                            primeImplicants.add(minterm);
-                        }
-                    }
-                }
-
-                newGroups.add(newGroup);
-
-
             }
 
             //end if no combinations are found
@@ -155,6 +181,34 @@ public class QuineMcCluskeyAlgorithm {
     }
 
 
+    //fallback when the budget runs out while combining
+    //every minterm is inside a prime implicant found so far or a term of the current iteration,
+    //and a current term that was already paired is inside one of the new terms built from it,
+    //so the new terms plus the unpaired current terms still cover the function, just not with proven prime implicants
+    private void keepTermsReachedSoFar(List<List<Minterm>> currentGroups, List<List<Minterm>> newGroups,
+                                       Set<Minterm> combinedMinterms) {
+        budgetExceeded = true;
+
+        Set<Minterm> kept = new HashSet<>(primeImplicants);
+
+        for (List<Minterm> group : newGroups) {
+            for (Minterm minterm : group) {
+                if (kept.add(minterm)) {
+                    primeImplicants.add(minterm);
+                }
+            }
+        }
+
+        for (List<Minterm> group : currentGroups) {
+            for (Minterm minterm : group) {
+                if (!combinedMinterms.contains(minterm) && kept.add(minterm)) {
+                    primeImplicants.add(minterm);
+                }
+            }
+        }
+    }
+
+
     //prime implicant table
     private void PrimeImplicantTable() {
 
@@ -198,6 +252,12 @@ public class QuineMcCluskeyAlgorithm {
 
     private void essentialPrimeImplicant() {
 
+        //out of budget before the chart: go straight to a first-fit cover
+        if (budget.isExhausted()) {
+            coverWithoutChart();
+            return;
+        }
+
         Map<Integer, List<Minterm>> essentialPI = new HashMap<>();
 
         for(int minterm : mintermsDecimal) {
@@ -205,20 +265,24 @@ public class QuineMcCluskeyAlgorithm {
         }
 
 
+        //every minterm of an implicant is in the ON-set, so only those columns get an X
         for (Minterm primeImplicant : primeImplicants) {
 
-            for (int minterm : mintermsDecimal) {
+            if (budget.isExhausted()) {
+                coverWithoutChart();
+                return;
+            }
 
-                if (primeImplicant.doesItMatch(minterm)) {
+            for (int minterm : primeImplicant.getSetOfMinterms()) {
 
-                    essentialPI.get(minterm).add(primeImplicant);
+                essentialPI.get(minterm).add(primeImplicant);
 
-                }
             }
         }
 
 
         Set<Integer> mintermsCoveredByEPI = new HashSet<>();
+        Set<Minterm> chosen = new HashSet<>();
 
 
         //find columns with one X only
@@ -229,21 +293,18 @@ public class QuineMcCluskeyAlgorithm {
             if (implicants.size()==1) {
                 Minterm essentialImplicant = implicants.get(0);
 
-                if (!essentialPrimeImplicants.contains(essentialImplicant)) {
+                if (chosen.add(essentialImplicant)) {
                     essentialPrimeImplicants.add(essentialImplicant);
-
-                    for (int coveredMinterm : mintermsDecimal) {
-                        if(essentialImplicant.doesItMatch(coveredMinterm)) {
-                            mintermsCoveredByEPI.add(coveredMinterm);
-                        }
-
-                    }
+                    mintermsCoveredByEPI.addAll(essentialImplicant.getSetOfMinterms());
                 }
 
             }
         }
 
 
+        //anything added to the list after this point is an additional prime implicant for the cover
+        numberOfEssentials = essentialPrimeImplicants.size();
+
         //visualization
         essentialPrimeImplicantsDisplay.append("Essential Prime Implicants:\n");
         if (essentialPrimeImplicants.isEmpty()) {
@@ -273,11 +334,25 @@ public class QuineMcCluskeyAlgorithm {
 
             //output the prime implicants that cover the most uncovered minterms
             while (!uncovered.isEmpty()) {
+
+                //out of budget: take the first implicant for each minterm still uncovered
+                if (!budget.spend(1)) {
+                    budgetExceeded = true;
+                    coverRemainingMinterms(uncovered, chosen);
+                    break;
+                }
+
                 Minterm bestImplicant = null;
                 int maxCoverage = 0;
+                boolean outOfTime = false;
 
                 for (Minterm primeImplicant : primeImplicants) {
-                    if (essentialPrimeImplicants.contains(primeImplicant)) {
+                    if (budget.isExhausted()) {
+                        outOfTime = true;
+                        break;
+                    }
+
+                    if (chosen.contains(primeImplicant)) {
                         continue;
                     }
 
@@ -294,7 +369,14 @@ public class QuineMcCluskeyAlgorithm {
                     }
                 }
 
+                if (outOfTime) {
+                    budgetExceeded = true;
+                    coverRemainingMinterms(uncovered, chosen);
+                    break;
+                }
+
                 if (bestImplicant != null && maxCoverage > 0) {
+                    chosen.add(bestImplicant);
                     essentialPrimeImplicants.add(bestImplicant);
                     essentialPrimeImplicantsDisplay.append("Added additional prime implicant: ")
                             .append(bestImplicant.mintermToExpression(variablesLetter)).append("\n");
@@ -312,11 +394,76 @@ public class QuineMcCluskeyAlgorithm {
         }
 
 
+        displayFinalPrimeImplicants();
+
+    }
+
+    //budget ran out before the chart was built: no essentials, first-fit cover of every minterm
+    private void coverWithoutChart() {
+        budgetExceeded = true;
+        numberOfEssentials = 0;
+
+        essentialPrimeImplicantsDisplay.append("Essential Prime Implicants:\n");
+        essentialPrimeImplicantsDisplay.append("Budget ran out before the prime implicant table was checked\n");
+
+        coverRemainingMinterms(new ArrayList<>(mintermsDecimal), new HashSet<>());
+
+        displayFinalPrimeImplicants();
+    }
+
+    private void displayFinalPrimeImplicants() {
+        if (budgetExceeded) {
+            essentialPrimeImplicantsDisplay.append("\nBudget ran out, the result covers the function but is not proven minimal\n");
+        }
+
         essentialPrimeImplicantsDisplay.append("\nFinal Prime Implicants:\n");
         for (Minterm primeImplicant : essentialPrimeImplicants) {
             essentialPrimeImplicantsDisplay.append("- ").append(primeImplicant.mintermToExpression(variablesLetter)).append("\n");
         }
+    }
+
+    //cheap cover for the minterms left once the budget runs out
+    //one pass over the implicants lists the ones covering each minterm, then each minterm still uncovered
+    //takes the implicant among those that covers the most uncovered minterms
+    private void coverRemainingMinterms(List<Integer> uncovered, Set<Minterm> chosen) {
+        Map<Integer, List<Minterm>> coveredBy = new HashMap<>();
 
+        for (Minterm primeImplicant : primeImplicants) {
+            for (int m : primeImplicant.getSetOfMinterms()) {
+                coveredBy.computeIfAbsent(m, k -> new ArrayList<>()).add(primeImplicant);
+            }
+        }
+
+        Set<Integer> remaining = new HashSet<>(uncovered);
+        for (int m : uncovered) {
+            //null only happens if no implicant covers it at all
+            if (!remaining.contains(m) || coveredBy.get(m) == null) {
+                continue;
+            }
+
+            Minterm bestImplicant = null;
+            int maxCoverage = 0;
+            for (Minterm primeImplicant : coveredBy.get(m)) {
+                int coverCount = 0;
+                for (int covered : primeImplicant.getSetOfMinterms()) {
+                    if (remaining.contains(covered)) {
+                        coverCount++;
+                    }
+                }
+
+                if (coverCount > maxCoverage) {
+                    maxCoverage = coverCount;
+                    bestImplicant = primeImplicant;
+                }
+            }
+
+            remaining.removeAll(bestImplicant.getSetOfMinterms());
+            if (chosen.add(bestImplicant)) {
+                essentialPrimeImplicants.add(bestImplicant);
+                essentialPrimeImplicantsDisplay.append("Added additional prime implicant: ")
+                        .append(bestImplicant.mintermToExpression(variablesLetter)).append("\n");
+            }
+        }
     }
 
 
@@ -392,8 +539,49 @@ public class QuineMcCluskeyAlgorithm {
     }
 
 
+    public List<Integer> getMinterms() {
+        return mintermsDecimal;
+    }
+
+    public String getVariables() {
+        return variablesLetter;
+    }
+
+    public int getNumberOfVariables() {
+        return numberOfVariables;
+    }
+
+    public List<Minterm> getPrimeImplicants() {
+        return primeImplicants;
+    }
+
+    //final prime implicants chosen to cover the function
+    public List<Minterm> getEssentialPrimeImplicants() {
+        return essentialPrimeImplicants;
+    }
+
+    //only the prime implicants that are the sole cover of some minterm
+    public List<Minterm> getStrictlyEssentialPrimeImplicants() {
+        return essentialPrimeImplicants.subList(0, numberOfEssentials);
+    }
+
+    //true if the budget ran out: the cover is still valid but it is only the best one found so far
+    public boolean isBudgetExceeded() {
+        return budgetExceeded;
+    }
+
+    //compile the chosen cover into an evaluator so it doesn't have to be parsed from the expression
+    public CompiledCover compile() {
+        return new CompiledCover(essentialPrimeImplicants, numberOfVariables);
+    }
+
+
     //display prime implicant table
     public String displayPrimeImplicantsTable(){
+        if (primeImplicantTableDisplay.length() == 0) {
+            PrimeImplicantTable();
+        }
+
         return primeImplicantTableDisplay.toString();
     }
 
@@ -0,0 +1,336 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+
+//append-only store of minimization results in a memory-mapped file
+//results are indexed by a hash of the canonical ON-set so later runs can reuse them without solving again
+//a result cut short by its budget is kept only until a complete result for the same function is stored
+//
+//file layout: header (magic, version) followed by records
+//record: length (int, bytes after this field), ON-set hash (long), number of variables (byte),
+//        flags (byte, BUDGET_EXCEEDED when the cover is not proven minimal), ON-set bitmap (2^n bits), prime count (int), primes (int each: mask << 16 | value),
+//        cover count (int), cover (int each: index into the primes)
+//
+//several processes can share one store: appends hold an exclusive lock on the file and pick up
+//the records the other processes added before writing at the real end of the file
+//file locks belong to the whole JVM, so each process should open a store only once
+public class ResultStore implements Closeable {
+    public static final int MAX_NO_VARIABLES = 16;
+
+    //the whole file is read through a single mapping, which is limited to 2 GB
+    public static final long MAX_FILE_SIZE = Integer.MAX_VALUE;
+
+    private static final int MAGIC = 0x514D4352;
+    private static final int VERSION = 3;
+    private static final int BUDGET_EXCEEDED = 1;
+    private static final int HEADER_SIZE = 8;
+
+    private Path path;
+    private FileChannel channel;
+    private MappedByteBuffer mapped;
+    private long size;
+    private Map<Long, List<Integer>> index;
+
+    //open the store at the given path, creating it if it doesn't exist
+    public ResultStore(Path path) throws IOException {
+        this.path = path;
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.index = new HashMap<>();
+
+        try (FileLock lock = channel.lock()) {
+            if (channel.size() == 0) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+                header.putInt(MAGIC).putInt(VERSION).flip();
+                channel.write(header, 0);
+            }
+
+            if (channel.size() < HEADER_SIZE) {
+                throw new IOException("not a result store: " + path);
+            }
+
+            this.size = HEADER_SIZE;
+            remap(channel.size());
+
+            if (mapped.getInt(0) != MAGIC || mapped.getInt(4) != VERSION) {
+                throw new IOException("not a result store: " + path);
+            }
+
+            //holding the lock, so a cut off record can't be another process still writing
+            scan(true);
+        }
+    }
+
+    //look up an earlier result for the same function
+    //a complete result wins over ones cut short by the budget, otherwise the latest one is returned
+    //sees the records present when the store was opened or last appended to
+    public Optional<StoredResult> lookup(List<Integer> minterms, int numberOfVariables) {
+        checkNumberOfVariables(numberOfVariables);
+
+        byte[] onSet = onSetBitmap(minterms, numberOfVariables);
+        long hash = hash(onSet, numberOfVariables);
+        StoredResult best = null;
+
+        for (int offset : index.getOrDefault(hash, Collections.emptyList())) {
+            StoredResult stored = new StoredResult(recordAt(offset));
+
+            if (stored.matches(onSet, numberOfVariables)) {
+                if (!stored.isBudgetExceeded()) {
+                    return Optional.of(stored);
+                }
+                best = stored;
+            }
+        }
+
+        return Optional.ofNullable(best);
+    }
+
+    //append the result of a solved algorithm
+    //skipped if the function already has a complete result, or if both results were cut short by the budget
+    public void store(QuineMcCluskeyAlgorithm algorithm) throws IOException {
+        int numberOfVariables = algorithm.getNumberOfVariables();
+        checkNumberOfVariables(numberOfVariables);
+
+        List<Minterm> primeImplicants = algorithm.getPrimeImplicants();
+        List<Minterm> cover = algorithm.getEssentialPrimeImplicants();
+        CompiledCover packedPrimes = new CompiledCover(primeImplicants, numberOfVariables);
+
+        Map<Minterm, Integer> primeIndex = new HashMap<>();
+        for (int k = 0; k < primeImplicants.size(); k++) {
+            primeIndex.putIfAbsent(primeImplicants.get(k), k);
+        }
+
+        byte[] onSet = onSetBitmap(algorithm.getMinterms(), numberOfVariables);
+        long hash = hash(onSet, numberOfVariables);
+
+        long recordSize = 4L + 8 + 1 + 1 + onSet.length + 4 + 4L * primeImplicants.size() + 4 + 4L * cover.size();
+        if (recordSize > MAX_FILE_SIZE - HEADER_SIZE) {
+            throw new IOException("result is too large for the result store");
+        }
+
+        int length = (int) recordSize - 4;
+        ByteBuffer record = ByteBuffer.allocate(4 + length);
+        record.putInt(length);
+        record.putLong(hash);
+        record.put((byte) numberOfVariables);
+        record.put((byte) (algorithm.isBudgetExceeded() ? BUDGET_EXCEEDED : 0));
+        record.put(onSet);
+
+        record.putInt(primeImplicants.size());
+        for (int k = 0; k < packedPrimes.size(); k++) {
+            record.putInt(packedPrimes.getMask(k) << 16 | packedPrimes.getValue(k));
+        }
+
+        record.putInt(cover.size());
+        for (Minterm implicant : cover) {
+            record.putInt(primeIndex.get(implicant));
+        }
+        record.flip();
+
+        try (FileLock lock = channel.lock()) {
+            //another process may have stored the same function since this one last looked
+            scan(false);
+            Optional<StoredResult> stored = lookup(algorithm.getMinterms(), numberOfVariables);
+            if (stored.isPresent() && (!stored.get().isBudgetExceeded() || algorithm.isBudgetExceeded())) {
+                return;
+            }
+
+            long offset = channel.size();
+            if (offset + record.remaining() > MAX_FILE_SIZE) {
+                throw new IOException("result store is full (" + MAX_FILE_SIZE + " bytes): " + path);
+            }
+
+            while (record.hasRemaining()) {
+                channel.write(record, offset + record.position());
+            }
+
+            scan(false);
+        }
+    }
+
+    //number of results in the store
+    public int count() {
+        int count = 0;
+
+        for (List<Integer> offsets : index.values()) {
+            count += offsets.size();
+        }
+
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void remap(long length) throws IOException {
+        if (length > MAX_FILE_SIZE) {
+            throw new IOException("result store is larger than " + MAX_FILE_SIZE + " bytes: " + path);
+        }
+
+        mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+    }
+
+    //index the records between the end already indexed and the end of the file
+    //truncatePartial = drop a record cut off by a crash, only safe while holding the lock
+    private void scan(boolean truncatePartial) throws IOException {
+        long fileSize = channel.size();
+
+        if (fileSize > mapped.capacity()) {
+            remap(fileSize);
+        }
+
+        int offset = (int) size;
+        while (offset + 4L <= fileSize) {
+            int length = mapped.getInt(offset);
+
+            if (length <= 0 || offset + 4L + length > fileSize) {
+                break;
+            }
+
+            index.computeIfAbsent(mapped.getLong(offset + 4), h -> new ArrayList<>()).add(offset);
+            offset += 4 + length;
+        }
+        size = offset;
+
+        if (truncatePartial && size < fileSize) {
+            channel.truncate(size);
+            remap(size);
+        }
+    }
+
+    //view on the record body without copying it out of the mapping
+    private ByteBuffer recordAt(int offset) {
+        return mapped.slice(offset + 4, mapped.getInt(offset));
+    }
+
+    private static void checkNumberOfVariables(int numberOfVariables) {
+        if (numberOfVariables < 0 || numberOfVariables > MAX_NO_VARIABLES) {
+            throw new IllegalArgumentException("result store supports up to " + MAX_NO_VARIABLES + " variables");
+        }
+    }
+
+    //canonical ON-set: one bit per minterm, so order and duplicates in the input don't matter
+    private static byte[] onSetBitmap(List<Integer> minterms, int numberOfVariables) {
+        byte[] onSet = new byte[((1 << numberOfVariables) + 7) / 8];
+
+        for (int m : minterms) {
+            onSet[m >> 3] |= (byte) (1 << (m & 7));
+        }
+
+        return onSet;
+    }
+
+    //64-bit FNV-1a over the number of variables and the ON-set bitmap
+    private static long hash(byte[] onSet, int numberOfVariables) {
+        long hash = 0xcbf29ce484222325L;
+
+        hash = (hash ^ numberOfVariables) * 0x100000001b3L;
+        for (byte b : onSet) {
+            hash = (hash ^ (b & 0xff)) * 0x100000001b3L;
+        }
+
+        return hash;
+    }
+
+
+    //a result read straight from the mapped file
+    public static class StoredResult {
+        private ByteBuffer record;
+        private int numberOfVariables;
+        private int primesOffset;
+        private int coverOffset;
+
+        private StoredResult(ByteBuffer record) {
+            this.record = record;
+            this.numberOfVariables = record.get(8);
+
+            int onSetLength = ((1 << numberOfVariables) + 7) / 8;
+            this.primesOffset = 10 + onSetLength;
+            this.coverOffset = primesOffset + 4 + 4 * record.getInt(primesOffset);
+        }
+
+        public int getNumberOfVariables() {
+            return numberOfVariables;
+        }
+
+        //true if the budget ran out: the cover is valid but not proven minimal and the primes may not be prime
+        public boolean isBudgetExceeded() {
+            return (record.get(9) & BUDGET_EXCEEDED) != 0;
+        }
+
+        public int getPrimeImplicantCount() {
+            return record.getInt(primesOffset);
+        }
+
+        public int getCoverSize() {
+            return record.getInt(coverOffset);
+        }
+
+        public List<Minterm> getPrimeImplicants() {
+            List<Minterm> primeImplicants = new ArrayList<>();
+
+            for (int k = 0; k < getPrimeImplicantCount(); k++) {
+                primeImplicants.add(primeAt(k));
+            }
+
+            return primeImplicants;
+        }
+
+        //final prime implicants chosen to cover the function
+        public List<Minterm> getCover() {
+            List<Minterm> cover = new ArrayList<>();
+
+            for (int k = 0; k < getCoverSize(); k++) {
+                cover.add(primeAt(coverIndex(k)));
+            }
+
+            return cover;
+        }
+
+        //evaluator built directly from the packed cubes
+        public CompiledCover toCompiledCover() {
+            int[] masks = new int[getCoverSize()];
+            int[] values = new int[getCoverSize()];
+
+            for (int k = 0; k < masks.length; k++) {
+                int packed = record.getInt(primesOffset + 4 + 4 * coverIndex(k));
+                masks[k] = packed >>> 16;
+                values[k] = packed & 0xffff;
+            }
+
+            return new CompiledCover(masks, values, numberOfVariables);
+        }
+
+        private int coverIndex(int k) {
+            return record.getInt(coverOffset + 4 + 4 * k);
+        }
+
+        private Minterm primeAt(int k) {
+            int packed = record.getInt(primesOffset + 4 + 4 * k);
+            return Minterm.fromMaskAndValue(packed >>> 16, packed & 0xffff, numberOfVariables);
+        }
+
+        private boolean matches(byte[] onSet, int numberOfVariables) {
+            if (this.numberOfVariables != numberOfVariables) {
+                return false;
+            }
+
+            for (int i = 0; i < onSet.length; i++) {
+                if (record.get(10 + i) != onSet[i]) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+    }
+}
@@ -0,0 +1,235 @@
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+
+//prime implicant generation by recursive Shannon expansion f = x'f0 + xf1
+//the primes of the two cofactors are found as fork/join tasks and merged:
+//primes(f) = x' * primes(f0) + x * primes(f1) + every consensus p * q, without the cubes contained in another one
+//small cofactors go to the tabular method of QuineMcCluskeyAlgorithm instead
+public class ShannonPrimeImplicants {
+    public static final int DEFAULT_TABULAR_THRESHOLD = 32;
+
+    private List<Integer> mintermsDecimal;
+    private String variablesLetter;
+    private int numberOfVariables;
+    private int tabularThreshold;
+
+    //constructor for the engine
+    public ShannonPrimeImplicants(List<Integer> mintermsDecimal, String variablesLetter) {
+        this(mintermsDecimal, variablesLetter, DEFAULT_TABULAR_THRESHOLD);
+    }
+
+    //tabularThreshold = cofactors with at most this many minterms use the tabular method
+    public ShannonPrimeImplicants(List<Integer> mintermsDecimal, String variablesLetter, int tabularThreshold) {
+        this.mintermsDecimal = new ArrayList<>(mintermsDecimal);
+        this.variablesLetter = variablesLetter;
+        this.numberOfVariables = variablesLetter.length();
+        this.tabularThreshold = tabularThreshold;
+    }
+
+    //prime implicants of the function, ordered by binary representation
+    public List<Minterm> generate() {
+        int[] onSet = mintermsDecimal.stream().mapToInt(Integer::intValue).distinct().sorted().toArray();
+        int allVariables = (1 << numberOfVariables) - 1;
+
+        List<Long> cubes = ForkJoinPool.commonPool().invoke(new PrimeTask(onSet, allVariables));
+
+        List<Minterm> primeImplicants = new ArrayList<>();
+        for (long cube : cubes) {
+            primeImplicants.add(Minterm.fromMaskAndValue(mask(cube), value(cube), numberOfVariables));
+        }
+        primeImplicants.sort(Comparator.comparing(Minterm::getBinaryRepresentation));
+
+        return primeImplicants;
+    }
+
+    //check the prime set against the tabular engine on the whole function
+    public boolean matchesTabular() {
+        QuineMcCluskeyAlgorithm algorithm = new QuineMcCluskeyAlgorithm(mintermsDecimal, variablesLetter);
+        algorithm.findPrimeImplicants();
+
+        return new HashSet<>(generate()).equals(new HashSet<>(algorithm.getPrimeImplicants()));
+    }
+
+
+    //cubes are packed in a long: mask in the high half, value in the low half
+    private static long cube(int mask, int value) {
+        return (long) mask << 32 | (value & 0xffffffffL);
+    }
+
+    private static int mask(long cube) {
+        return (int) (cube >>> 32);
+    }
+
+    private static int value(long cube) {
+        return (int) cube;
+    }
+
+    //cube a contains cube b if every literal of a is also in b
+    private static boolean contains(long a, long b) {
+        return (mask(a) & ~mask(b)) == 0 && ((value(a) ^ value(b)) & mask(a)) == 0;
+    }
+
+
+    //primes of the function with the given ON-set over the variables in the mask
+    //variables already split on are cleared in the ON-set and never appear in the returned cubes
+    private class PrimeTask extends RecursiveTask<List<Long>> {
+        private int[] onSet;
+        private int variables;
+
+        private PrimeTask(int[] onSet, int variables) {
+            this.onSet = onSet;
+            this.variables = variables;
+        }
+
+        @Override
+        protected List<Long> compute() {
+            List<Long> primes = new ArrayList<>();
+
+            if (onSet.length == 0) {
+                return primes;
+            }
+            if (onSet.length == 1 << Integer.bitCount(variables)) {
+                primes.add(cube(0, 0));
+                return primes;
+            }
+            if (onSet.length <= tabularThreshold) {
+                return tabular();
+            }
+
+            int bit = splittingVariable();
+
+            int ones = 0;
+            for (int m : onSet) {
+                if ((m & bit) != 0) {
+                    ones++;
+                }
+            }
+
+            //cofactors, the split variable is cleared so both live on the same remaining variables
+            int[] cofactor0 = new int[onSet.length - ones];
+            int[] cofactor1 = new int[ones];
+            int i0 = 0;
+            int i1 = 0;
+            for (int m : onSet) {
+                if ((m & bit) != 0) {
+                    cofactor1[i1++] = m & ~bit;
+                } else {
+                    cofactor0[i0++] = m;
+                }
+            }
+
+            int remaining = variables & ~bit;
+            PrimeTask task0 = new PrimeTask(cofactor0, remaining);
+            task0.fork();
+            List<Long> primes1 = new PrimeTask(cofactor1, remaining).compute();
+            List<Long> primes0 = task0.join();
+
+            return merge(bit, primes0, primes1);
+        }
+
+        //the variable whose cofactors are closest to the same size
+        private int splittingVariable() {
+            int best = Integer.lowestOneBit(variables);
+            int bestBalance = Integer.MAX_VALUE;
+
+            for (int b = 0; b < 32; b++) {
+                int bit = 1 << b;
+
+                if ((variables & bit) == 0) {
+                    continue;
+                }
+
+                int ones = 0;
+                for (int m : onSet) {
+                    if ((m & bit) != 0) {
+                        ones++;
+                    }
+                }
+
+                int balance = Math.abs(2 * ones - onSet.length);
+                if (balance < bestBalance) {
+                    bestBalance = balance;
+                    best = bit;
+                }
+            }
+
+            return best;
+        }
+
+        private List<Long> merge(int bit, List<Long> primes0, List<Long> primes1) {
+            //consensus of every pair of cofactor primes that agree on their shared literals
+            Set<Long> consensus = new LinkedHashSet<>();
+            for (long p : primes0) {
+                for (long q : primes1) {
+                    if (((value(p) ^ value(q)) & mask(p) & mask(q)) == 0) {
+                        consensus.add(cube(mask(p) | mask(q), value(p) | value(q)));
+                    }
+                }
+            }
+
+            //a consensus cube has no literal of the split variable, so it can only be contained in another consensus cube
+            List<Long> primes = new ArrayList<>();
+            for (long c : consensus) {
+                boolean isContained = false;
+
+                for (long d : consensus) {
+                    if (d != c && contains(d, c)) {
+                        isContained = true;
+                        break;
+                    }
+                }
+
+                if (!isContained) {
+                    primes.add(c);
+                }
+            }
+            int consensusCount = primes.size();
+
+            //x' * p and x * q are prime unless a consensus cube contains them
+            addUncontained(primes, consensusCount, primes0, cube(bit, 0));
+            addUncontained(primes, consensusCount, primes1, cube(bit, bit));
+
+            return primes;
+        }
+
+        private void addUncontained(List<Long> primes, int consensusCount, List<Long> cofactorPrimes, long literal) {
+            for (long p : cofactorPrimes) {
+                long withLiteral = cube(mask(p) | mask(literal), value(p) | value(literal));
+                boolean isContained = false;
+
+                for (int k = 0; k < consensusCount; k++) {
+                    if (contains(primes.get(k), withLiteral)) {
+                        isContained = true;
+                        break;
+                    }
+                }
+
+                if (!isContained) {
+                    primes.add(withLiteral);
+                }
+            }
+        }
+
+        //tabular method on just the remaining variables
+        private List<Long> tabular() {
+            SubSpace subSpace = new SubSpace(variables, variablesLetter);
+
+            List<Integer> compressed = new ArrayList<>();
+            for (int m : onSet) {
+                compressed.add(subSpace.compress(m));
+            }
+
+            QuineMcCluskeyAlgorithm algorithm = new QuineMcCluskeyAlgorithm(compressed, subSpace.getLetters());
+            algorithm.findPrimeImplicants();
+
+            List<Long> primes = new ArrayList<>();
+            for (Minterm primeImplicant : algorithm.getPrimeImplicants()) {
+                primes.add(cube(subSpace.expand(primeImplicant.toMask()), subSpace.expand(primeImplicant.toValue())));
+            }
+
+            return primes;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+//a subset of the variables of a function, renumbered so it can be solved as a smaller function
+//compress packs the chosen bits of a minterm together, expand puts them back in place
+//both keep the letter order, so the first chosen letter stays the highest bit
+public class SubSpace {
+
+    private int variables;
+    private String letters;
+
+    //variables = bit mask of the chosen variables in the full function
+    //variablesLetter = letters of the full function
+    public SubSpace(int variables, String variablesLetter) {
+        int numberOfVariables = variablesLetter.length();
+        StringBuilder letters = new StringBuilder();
+
+        for (int b = numberOfVariables - 1; b >= 0; b--) {
+            if ((variables & (1 << b)) != 0) {
+                letters.append(variablesLetter.charAt(numberOfVariables - 1 - b));
+            }
+        }
+
+        this.variables = variables;
+        this.letters = letters.toString();
+    }
+
+    //letters of the chosen variables, first to last
+    public String getLetters() {
+        return letters;
+    }
+
+    //minterm of the full function to a minterm over only the chosen variables
+    public int compress(int value) {
+        int compressed = 0;
+        int position = 0;
+
+        for (int rest = variables; rest != 0; rest &= rest - 1) {
+            int bit = Integer.lowestOneBit(rest);
+
+            if ((value & bit) != 0) {
+                compressed |= 1 << position;
+            }
+            position++;
+        }
+
+        return compressed;
+    }
+
+    //mask or value over the chosen variables back to the bits of the full function
+    public int expand(int compressed) {
+        int value = 0;
+        int position = 0;
+
+        for (int rest = variables; rest != 0; rest &= rest - 1) {
+            if ((compressed & (1 << position)) != 0) {
+                value |= Integer.lowestOneBit(rest);
+            }
+            position++;
+        }
+
+        return value;
+    }
+}